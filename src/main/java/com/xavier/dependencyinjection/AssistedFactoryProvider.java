@@ -0,0 +1,74 @@
+package com.xavier.dependencyinjection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static com.xavier.dependencyinjection.ContextConfig.ComponentProvider;
+import static com.xavier.dependencyinjection.ContextConfig.Context;
+import static java.util.Arrays.stream;
+
+class AssistedFactoryProvider<F> implements ComponentProvider<F> {
+
+    private final Class<F> factoryClass;
+    private final Method factoryMethod;
+    private final DefaultComponentProvider<?> componentProvider;
+
+    AssistedFactoryProvider(Class<F> factoryClass, Class<?> implementationClass) {
+        if (!factoryClass.isInterface()) throw new UnsupportedOperationException();
+
+        this.factoryClass = factoryClass;
+        factoryMethod = getFactoryMethod(factoryClass);
+        componentProvider = new DefaultComponentProvider<>(implementationClass);
+
+        if (!factoryMethod.getReturnType().isAssignableFrom(implementationClass))
+            throw new UnsupportedOperationException();
+        if (!Arrays.asList(factoryMethod.getParameterTypes()).equals(componentProvider.getAssistedParameterTypes()))
+            throw new UnsupportedOperationException();
+    }
+
+    private Method getFactoryMethod(Class<F> factoryClass) {
+        Method[] abstractMethods = stream(factoryClass.getMethods())
+                .filter(method -> Modifier.isAbstract(method.getModifiers())).toArray(Method[]::new);
+        if (abstractMethods.length != 1) throw new UnsupportedOperationException();
+        return abstractMethods[0];
+    }
+
+    @Override
+    public Optional<Class<?>> getImplementationClass() {
+        return componentProvider.getImplementationClass();
+    }
+
+    @Override
+    public boolean isContextScoped() {
+        return true;
+    }
+
+    // Components created through the factory belong to the caller and are not destroyed with the context.
+    @Override
+    public F get(Context context) {
+        InvocationHandler handler = (proxy, method, arguments) -> {
+            if (method.equals(factoryMethod)) {
+                Object[] assistedArguments = arguments == null ? new Object[0] : arguments;
+                return context.resolve(resolver -> componentProvider.get(resolver, assistedArguments));
+            }
+            if (method.isDefault()) return InvocationHandler.invokeDefault(proxy, method, arguments);
+            return switch (method.getName()) {
+                case "equals" -> proxy == arguments[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> factoryClass.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                default -> throw new UnsupportedOperationException();
+            };
+        };
+        return factoryClass.cast(Proxy.newProxyInstance(factoryClass.getClassLoader(), new Class<?>[]{factoryClass}, handler));
+    }
+
+    @Override
+    public List<Class<?>> getDependencies() {
+        return componentProvider.getDependencies();
+    }
+}
@@ -0,0 +1,4 @@
+package com.xavier.dependencyinjection;
+
+public record CacheStats(long hits, long misses) {
+}
@@ -0,0 +1,18 @@
+package com.xavier.dependencyinjection;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cached {
+
+    int maxSize() default 1000;
+
+    long ttl() default 0;
+
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+}
@@ -0,0 +1,6 @@
+package com.xavier.dependencyinjection;
+
+public interface CachedComponent {
+
+    MethodCaches getMethodCaches();
+}
@@ -0,0 +1,25 @@
+package com.xavier.dependencyinjection;
+
+import net.bytebuddy.implementation.bind.annotation.AllArguments;
+import net.bytebuddy.implementation.bind.annotation.FieldValue;
+import net.bytebuddy.implementation.bind.annotation.Origin;
+import net.bytebuddy.implementation.bind.annotation.RuntimeType;
+import net.bytebuddy.implementation.bind.annotation.SuperCall;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+
+public class CachedMethodInterceptor {
+
+    static final String CACHES_FIELD = "methodCaches$cached";
+
+    private CachedMethodInterceptor() {
+    }
+
+    @RuntimeType
+    public static Object intercept(@FieldValue(CACHES_FIELD) MethodCaches caches, @Origin Method method,
+                                   @AllArguments Object[] arguments, @SuperCall Callable<?> original) throws Exception {
+        if (caches == null) return original.call();
+        return caches.invoke(method, arguments, original);
+    }
+}
@@ -0,0 +1,53 @@
+package com.xavier.dependencyinjection;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.stream;
+
+public class ClassLoadingProfile {
+
+    private final Set<Class<?>> classes = new LinkedHashSet<>();
+
+    synchronized void record(Class<?> componentClass) {
+        if (componentClass == null || componentClass.isPrimitive() || componentClass.isArray()
+                || classes.contains(componentClass)) return;
+
+        record(componentClass.getSuperclass());
+        stream(componentClass.getInterfaces()).forEach(this::record);
+        if (isArchivable(componentClass)) classes.add(componentClass);
+    }
+
+    private boolean isArchivable(Class<?> componentClass) {
+        if (componentClass.isHidden()) return false;
+        return componentClass.getResource("/" + componentClass.getName().replace('.', '/') + ".class") != null;
+    }
+
+    public synchronized List<Class<?>> getClasses() {
+        return new ArrayList<>(classes);
+    }
+
+    public void writeClassList(Path classList) throws IOException {
+        Files.write(classList, getClasses().stream().map(componentClass -> componentClass.getName().replace('.', '/')).toList());
+    }
+
+    public void writePreTouchList(Path preTouchList) throws IOException {
+        Files.write(preTouchList, getClasses().stream().map(Class::getName).toList());
+    }
+
+    public static long preTouch(Path preTouchList, ClassLoader classLoader) throws IOException {
+        return Files.readAllLines(preTouchList).parallelStream().filter(className -> {
+            try {
+                Class.forName(className, false, classLoader);
+                return true;
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+        }).count();
+    }
+}
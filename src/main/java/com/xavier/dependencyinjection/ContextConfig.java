@@ -1,13 +1,37 @@
 package com.xavier.dependencyinjection;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class ContextConfig {
 
-    interface Context {
+    interface Context extends AutoCloseable {
 
         <T> Optional<T> get(Class<T> componentClass);
 
+        Map<Class<?>, Object> getAll(Class<?>... componentClasses);
+
+        <T> CompletableFuture<Optional<T>> getAsync(Class<T> componentClass);
+
+        <R> R resolve(Function<Context, R> resolution);
+
+        @Override
+        void close();
+
     }
 
     interface ComponentProvider<T> {
@@ -16,38 +40,336 @@ public class ContextConfig {
 
         List<Class<?>> getDependencies();
 
+        default CompletableFuture<T> getAsync(Context context) {
+            try {
+                return CompletableFuture.completedFuture(get(context));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        default Optional<Class<?>> getImplementationClass() {
+            return Optional.empty();
+        }
+
+        default boolean isContextScoped() {
+            return false;
+        }
+
+        default boolean isDestroyable(T instance) {
+            return false;
+        }
+
+        default void destroy(T instance) {
+        }
+
     }
 
-    private final Map<Class<?>, ComponentProvider<?>> providers = new HashMap<>();
+    private final Map<Class<?>, ComponentProvider<?>> providers = new LinkedHashMap<>();
+
+    private Duration destroyTimeout = Duration.ofSeconds(30);
+
+    private boolean resolutionScoped;
+
+    private ClassLoadingProfile classLoadingProfile;
+
+    public void setDestroyTimeout(Duration destroyTimeout) {
+        this.destroyTimeout = destroyTimeout;
+    }
+
+    public void setResolutionScoped(boolean resolutionScoped) {
+        this.resolutionScoped = resolutionScoped;
+    }
+
+    public void setClassLoadingProfile(ClassLoadingProfile classLoadingProfile) {
+        this.classLoadingProfile = classLoadingProfile;
+    }
+
+    public CompletableFuture<Long> preTouch(Path preTouchList) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return ClassLoadingProfile.preTouch(preTouchList, classLoader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
 
     public Context getContext() {
         providers.forEach((key, value) -> value.getDependencies().forEach(dependency -> {
             if (!providers.containsKey(dependency))
                 throw new DependencyNotFoundException(key, Collections.singletonList(dependency));
         }));
-        providers.keySet().forEach(key -> checkCyclicDependency(key, new ArrayDeque<>()));
+        if (classLoadingProfile != null) providers.forEach((type, provider) -> {
+            classLoadingProfile.record(type);
+            provider.getImplementationClass().ifPresent(classLoadingProfile::record);
+        });
+        checkCyclicDependencies();
 
-        return new Context() {
-            @Override
-            public <T> Optional<T> get(Class<T> componentClass) {
-                return Optional.ofNullable(providers.get(componentClass)).map(provider -> (T) provider.get(this));
+        return new ContainerContext();
+    }
+
+    private class ContainerContext implements Context {
+
+        private final Queue<Map.Entry<Class<?>, Object>> instances = new ConcurrentLinkedQueue<>();
+        private final Map<Class<?>, Object> contextScoped = new ConcurrentHashMap<>();
+
+        @Override
+        public <T> Optional<T> get(Class<T> componentClass) {
+            if (!resolutionScoped) return create(componentClass, this);
+            return scoped(scope -> scope.get(componentClass));
+        }
+
+        @Override
+        public Map<Class<?>, Object> getAll(Class<?>... componentClasses) {
+            return scoped(scope -> scope.getAll(componentClasses));
+        }
+
+        @Override
+        public <T> CompletableFuture<Optional<T>> getAsync(Class<T> componentClass) {
+            if (!resolutionScoped) return createAsync(componentClass, this);
+            return scoped(scope -> scope.getAsync(componentClass));
+        }
+
+        @Override
+        public <R> R resolve(Function<Context, R> resolution) {
+            if (!resolutionScoped) return resolution.apply(this);
+            return scoped(resolution);
+        }
+
+        @Override
+        public void close() {
+            Map<Class<?>, List<Object>> createdInstances = new HashMap<>();
+            for (Map.Entry<Class<?>, Object> entry = instances.poll(); entry != null; entry = instances.poll())
+                createdInstances.computeIfAbsent(entry.getKey(), key -> new ArrayList<>()).add(entry.getValue());
+            destroy(createdInstances);
+        }
+
+        private <T> Optional<T> create(Class<T> componentClass, Context resolver) {
+            ComponentProvider<T> provider = (ComponentProvider<T>) providers.get(componentClass);
+            if (provider == null) return Optional.empty();
+
+            if (provider.isContextScoped()) return Optional.ofNullable(getContextScoped(componentClass, provider));
+            T instance = provider.get(resolver);
+            if (instance != null) created(componentClass, provider, instance);
+            return Optional.ofNullable(instance);
+        }
+
+        private <T> T getContextScoped(Class<T> componentClass, ComponentProvider<T> provider) {
+            T instance = (T) contextScoped.get(componentClass);
+            if (instance != null) return instance;
+            synchronized (contextScoped) {
+                instance = (T) contextScoped.get(componentClass);
+                if (instance == null) {
+                    instance = provider.get(this);
+                    if (instance == null) return null;
+                    contextScoped.put(componentClass, instance);
+                    created(componentClass, provider, instance);
+                }
+                return instance;
+            }
+        }
+
+        private <T> CompletableFuture<Optional<T>> createAsync(Class<T> componentClass, Context resolver) {
+            ComponentProvider<T> provider = (ComponentProvider<T>) providers.get(componentClass);
+            if (provider == null) return CompletableFuture.completedFuture(Optional.empty());
+            if (provider.isContextScoped()) return CompletableFuture.completedFuture(create(componentClass, resolver));
+
+            CompletableFuture<T> instance = provider.getAsync(resolver);
+            CompletableFuture<Optional<T>> component = instance.thenApply(created -> {
+                if (created != null) created(componentClass, provider, created);
+                return Optional.ofNullable(created);
+            });
+            component.whenComplete((created, e) -> {
+                if (component.isCancelled()) instance.cancel(true);
+            });
+            return component;
+        }
+
+        private <T> void created(Class<T> componentClass, ComponentProvider<T> provider, T instance) {
+            if (classLoadingProfile != null) classLoadingProfile.record(instance.getClass());
+            if (provider.isDestroyable(instance)) instances.add(Map.entry(componentClass, instance));
+        }
+
+        private <R> R scoped(Function<? super ResolutionScope, R> resolution) {
+            ResolutionScope scope = new ResolutionScope(this);
+            try {
+                return resolution.apply(scope);
+            } finally {
+                scope.complete();
+            }
+        }
+    }
+
+    private static class ResolutionScope implements Context {
+
+        private final ContainerContext container;
+        private Map<Class<?>, Object> resolved = new HashMap<>();
+        private Map<Class<?>, CompletableFuture<?>> resolving = new HashMap<>();
+
+        ResolutionScope(ContainerContext container) {
+            this.container = container;
+        }
+
+        @Override
+        public <T> Optional<T> get(Class<T> componentClass) {
+            if (resolved == null) return container.get(componentClass);
+            if (resolved.containsKey(componentClass)) return Optional.of((T) resolved.get(componentClass));
+
+            Optional<T> component = container.create(componentClass, this);
+            component.ifPresent(instance -> resolved.put(componentClass, instance));
+            return component;
+        }
+
+        @Override
+        public Map<Class<?>, Object> getAll(Class<?>... componentClasses) {
+            Map<Class<?>, Object> components = new LinkedHashMap<>();
+            for (Class<?> componentClass : componentClasses)
+                get(componentClass).ifPresent(component -> components.put(componentClass, component));
+            return components;
+        }
+
+        @Override
+        public <T> CompletableFuture<Optional<T>> getAsync(Class<T> componentClass) {
+            if (resolving == null) return container.getAsync(componentClass);
+
+            CompletableFuture<Optional<T>> component = (CompletableFuture<Optional<T>>) resolving.get(componentClass);
+            if (component == null) {
+                component = container.createAsync(componentClass, this);
+                resolving.put(componentClass, component);
             }
-        };
+            return component;
+        }
+
+        @Override
+        public <R> R resolve(Function<Context, R> resolution) {
+            if (resolved == null) return container.resolve(resolution);
+            return resolution.apply(this);
+        }
+
+        @Override
+        public void close() {
+            container.close();
+        }
+
+        private void complete() {
+            resolved = null;
+            resolving = null;
+        }
     }
 
-    private void checkCyclicDependency(Class<?> component, Deque<Class<?>> deque) {
-        List<Class<?>> dependencies = providers.get(component).getDependencies();
-        dependencies.forEach(dependency -> {
-            if (deque.contains(dependency))
-                throw new CyclicDependencyFoundException(dependency, new ArrayList<>(deque));
-            deque.push(dependency);
+    private void destroy(Map<Class<?>, List<Object>> instances) {
+        if (instances.isEmpty()) return;
 
-            checkCyclicDependency(dependency, deque);
+        Map<Class<?>, List<Class<?>>> dependencies = new HashMap<>();
+        Map<Class<?>, List<Class<?>>> dependents = new HashMap<>();
+        Map<Class<?>, Integer> remainingDependents = new HashMap<>();
+        providers.forEach((component, provider) -> {
+            dependencies.put(component, provider.getDependencies());
+            dependencies.get(component).forEach(dependency -> {
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(component);
+                remainingDependents.merge(dependency, 1, Integer::sum);
+            });
+        });
 
-            deque.pop();
+        ExecutorService executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "context-destroy");
+            thread.setDaemon(true);
+            return thread;
         });
+        Queue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+        List<RuntimeException> reported;
+        try {
+            Map<Class<?>, CompletableFuture<Void>> destructions = new HashMap<>();
+            Deque<Class<?>> ready = new ArrayDeque<>();
+            providers.keySet().stream().filter(component -> !remainingDependents.containsKey(component)).forEach(ready::add);
+            while (!ready.isEmpty()) {
+                Class<?> component = ready.poll();
+                CompletableFuture<?>[] dependentDestructions = dependents.getOrDefault(component, Collections.emptyList()).stream()
+                        .map(destructions::get).toArray(CompletableFuture[]::new);
+                destructions.put(component, destroy(component, instances.getOrDefault(component, Collections.emptyList()),
+                        dependentDestructions, executor, failures));
+                dependencies.get(component).forEach(dependency -> {
+                    if (remainingDependents.merge(dependency, -1, Integer::sum) == 0) ready.add(dependency);
+                });
+            }
+            CompletableFuture.allOf(destructions.values().toArray(CompletableFuture[]::new)).join();
+            // Snapshot before shutdownNow(): interrupting timed-out destroys must not be reported as failures.
+            reported = new ArrayList<>(failures);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (!reported.isEmpty()) {
+            RuntimeException failure = reported.get(0);
+            reported.subList(1, reported.size()).forEach(failure::addSuppressed);
+            throw failure;
+        }
     }
 
+    private CompletableFuture<Void> destroy(Class<?> component, List<Object> instances, CompletableFuture<?>[] dependentDestructions,
+                                            Executor executor, Queue<RuntimeException> failures) {
+        ComponentProvider<Object> provider = (ComponentProvider<Object>) providers.get(component);
+        CompletableFuture<Void> dependentsDestroyed = CompletableFuture.allOf(dependentDestructions);
+        if (instances.isEmpty()) return dependentsDestroyed;
+
+        CompletableFuture<Void> destruction = new CompletableFuture<>();
+        dependentsDestroyed.thenRun(() -> executor.execute(() -> {
+            destruction.completeOnTimeout(null, destroyTimeout.toMillis(), MILLISECONDS);
+            instances.forEach(instance -> {
+                try {
+                    provider.destroy(instance);
+                } catch (RuntimeException e) {
+                    failures.add(e);
+                }
+            });
+            destruction.complete(null);
+        }));
+        return destruction;
+    }
+
+    private void checkCyclicDependencies() {
+        Set<Class<?>> checked = new HashSet<>();
+        providers.keySet().forEach(component -> {
+            if (!checked.contains(component)) checkCyclicDependency(component, checked);
+        });
+    }
+
+    private void checkCyclicDependency(Class<?> component, Set<Class<?>> checked) {
+        Deque<Class<?>> path = new ArrayDeque<>();
+        Set<Class<?>> visiting = new HashSet<>();
+        Deque<Iterator<Class<?>>> pending = new ArrayDeque<>();
+        path.push(component);
+        visiting.add(component);
+        pending.push(providers.get(component).getDependencies().iterator());
+
+        while (!pending.isEmpty()) {
+            Iterator<Class<?>> dependencies = pending.peek();
+            if (!dependencies.hasNext()) {
+                Class<?> visited = path.pop();
+                visiting.remove(visited);
+                checked.add(visited);
+                pending.pop();
+                continue;
+            }
+
+            Class<?> dependency = dependencies.next();
+            if (visiting.contains(dependency)) {
+                List<Class<?>> cycle = new ArrayList<>();
+                for (Class<?> current : path) {
+                    cycle.add(current);
+                    if (current == dependency) break;
+                }
+                throw new CyclicDependencyFoundException(dependency, cycle);
+            }
+            if (checked.contains(dependency)) continue;
+
+            path.push(dependency);
+            visiting.add(dependency);
+            pending.push(providers.get(dependency).getDependencies().iterator());
+        }
+    }
 
     public <T, I extends T> void bind(Class<T> typeClass, I implementationInstance) {
         providers.put(typeClass, new ComponentProvider<>() {
@@ -57,6 +379,11 @@ public class ContextConfig {
                 return implementationInstance;
             }
 
+            @Override
+            public Optional<Class<?>> getImplementationClass() {
+                return Optional.of(implementationInstance.getClass());
+            }
+
             @Override
             public List<Class<?>> getDependencies() {
                 return Collections.emptyList();
@@ -64,8 +391,47 @@ public class ContextConfig {
         });
     }
 
+    <T> void bindProvider(Class<T> typeClass, ComponentProvider<? extends T> provider) {
+        providers.put(typeClass, provider);
+    }
+
     public <T, I extends T> void bind(Class<T> typeClass, Class<I> implementationClass) {
-        providers.put(typeClass, new DefaultComponentProvider<>(implementationClass));
+        DefaultComponentProvider<I> provider = new DefaultComponentProvider<>(implementationClass);
+        if (!provider.getAssistedParameterTypes().isEmpty()) throw new UnsupportedOperationException();
+        providers.put(typeClass, provider);
+    }
+
+    public <T, I extends T> void bindAsync(Class<T> typeClass, Supplier<CompletableFuture<I>> implementationSupplier) {
+        providers.put(typeClass, new ComponentProvider<I>() {
+
+            @Override
+            public I get(Context context) {
+                try {
+                    return getAsync(context).join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException cause) throw cause;
+                    throw e;
+                }
+            }
+
+            @Override
+            public CompletableFuture<I> getAsync(Context context) {
+                try {
+                    return implementationSupplier.get().copy();
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+
+            @Override
+            public List<Class<?>> getDependencies() {
+                return Collections.emptyList();
+            }
+        });
+    }
+
+    public <F> void bindFactory(Class<F> factoryClass, Class<?> implementationClass) {
+        providers.put(factoryClass, new AssistedFactoryProvider<>(factoryClass, implementationClass));
     }
 
 }
@@ -1,50 +1,191 @@
 package com.xavier.dependencyinjection;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.MethodDelegation;
 
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.*;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import static com.xavier.dependencyinjection.ContextConfig.ComponentProvider;
 import static com.xavier.dependencyinjection.ContextConfig.Context;
 import static java.util.Arrays.stream;
+import static net.bytebuddy.matcher.ElementMatchers.isAnnotatedWith;
 
 class DefaultComponentProvider<T> implements ComponentProvider<T> {
 
+    private static final ClassValue<Class<?>> CACHED_SUBCLASSES = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> implementationClass) {
+            return defineCachedSubclass(implementationClass);
+        }
+    };
+
+    private final Class<T> implementationClass;
     private final Constructor<T> constructor;
+    private final boolean[] assistedParameters;
     private final List<Field> fields;
     private final List<Method> methods;
+    private final List<Method> postConstructMethods;
+    private final List<Method> preDestroyMethods;
+    private final Map<Method, Cached> cachedMethods;
+    private final Field cachesField;
+    private int inspectedMembers;
 
     DefaultComponentProvider(Class<T> implementationClass) {
-        this.constructor = (Constructor<T>) getInjectionConstructor(implementationClass);
+        this.implementationClass = implementationClass;
+        Constructor<T> injectionConstructor = (Constructor<T>) getInjectionConstructor(implementationClass);
+        assistedParameters = getAssistedParameters(injectionConstructor);
+        cachedMethods = getCachedMethods(implementationClass);
+        this.constructor = cachedMethods.isEmpty() ? injectionConstructor : getCachedSubclassConstructor(implementationClass, injectionConstructor);
+        cachesField = cachedMethods.isEmpty() ? null : getCachesField(constructor.getDeclaringClass());
         fields = getInjectionFields(implementationClass);
         methods = getInjectionMethods(implementationClass);
+        postConstructMethods = getLifecycleMethods(implementationClass, PostConstruct.class);
+        preDestroyMethods = getLifecycleMethods(implementationClass, PreDestroy.class);
+        Collections.reverse(preDestroyMethods);
+    }
+
+    private boolean[] getAssistedParameters(Constructor<T> constructor) {
+        Parameter[] parameters = constructor.getParameters();
+        boolean[] assisted = new boolean[parameters.length];
+        for (int i = 0; i < parameters.length; i++)
+            assisted[i] = parameters[i].isAnnotationPresent(Assisted.class);
+        return assisted;
+    }
+
+    private Map<Method, Cached> getCachedMethods(Class<T> implementationClass) {
+        Map<Method, Cached> cached = new HashMap<>();
+        Class<?> currentClass = implementationClass;
+        while (currentClass != Object.class) {
+            stream(currentClass.getDeclaredMethods()).filter(method -> method.isAnnotationPresent(Cached.class)).forEach(method -> {
+                int modifiers = method.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isPrivate(modifiers) || Modifier.isFinal(modifiers)
+                        || method.getReturnType() == void.class)
+                    throw new UnsupportedOperationException();
+                cached.put(method, method.getAnnotation(Cached.class));
+            });
+            currentClass = currentClass.getSuperclass();
+        }
+        if (!cached.isEmpty() && Modifier.isFinal(implementationClass.getModifiers()))
+            throw new UnsupportedOperationException();
+        return cached;
+    }
+
+    private Constructor<T> getCachedSubclassConstructor(Class<T> implementationClass, Constructor<T> injectionConstructor) {
+        try {
+            return (Constructor<T>) CACHED_SUBCLASSES.get(implementationClass).getDeclaredConstructor(injectionConstructor.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+
+    private static Class<?> defineCachedSubclass(Class<?> implementationClass) {
+        try {
+            return new ByteBuddy()
+                    .subclass(implementationClass, ConstructorStrategy.Default.IMITATE_SUPER_CLASS)
+                    .defineField(CachedMethodInterceptor.CACHES_FIELD, MethodCaches.class, Visibility.PRIVATE)
+                    .method(isAnnotatedWith(Cached.class))
+                    .intercept(MethodDelegation.to(CachedMethodInterceptor.class))
+                    .implement(CachedComponent.class)
+                    .intercept(FieldAccessor.ofField(CachedMethodInterceptor.CACHES_FIELD))
+                    .make()
+                    .load(implementationClass.getClassLoader(), ClassLoadingStrategy.UsingLookup.of(
+                            MethodHandles.privateLookupIn(implementationClass, MethodHandles.lookup())))
+                    .getLoaded();
+        } catch (IllegalAccessException e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+
+    private Field getCachesField(Class<?> cachedSubclass) {
+        try {
+            Field field = cachedSubclass.getDeclaredField(CachedMethodInterceptor.CACHES_FIELD);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+
+    private List<Method> getLifecycleMethods(Class<T> implementationClass, Class<? extends Annotation> annotation) {
+        List<Method> lifecycleMethods = new ArrayList<>();
+        Set<String> signatures = new HashSet<>();
+        Class<?> currentClass = implementationClass;
+        while (currentClass != Object.class) {
+            List<Method> currentMethods = stream(currentClass.getDeclaredMethods())
+                    .filter(method -> method.isAnnotationPresent(annotation))
+                    .filter(method -> Modifier.isPrivate(method.getModifiers()) || signatures.add(getSignature(method))).toList();
+            currentMethods.forEach(method -> {
+                if (method.getParameterCount() > 0) throw new UnsupportedOperationException();
+                method.setAccessible(true);
+            });
+
+            lifecycleMethods.addAll(0, currentMethods);
+            currentClass = currentClass.getSuperclass();
+        }
+        return lifecycleMethods;
     }
 
     private List<Method> getInjectionMethods(Class<T> implementationClass) {
         Class<?> currentClass = implementationClass;
         List<Method> allMethods = new ArrayList<>();
+        Set<String> signatures = new HashSet<>();
         while (currentClass != Object.class) {
-            List<Method> currentMethods = stream(currentClass.getMethods()).filter(this::isAnnotatedInject).toList();
+            Method[] declaredMethods = currentClass.getDeclaredMethods();
+            inspectedMembers += declaredMethods.length;
+            List<Method> currentMethods = stream(declaredMethods)
+                    .filter(method -> Modifier.isPublic(method.getModifiers()))
+                    .filter(this::isAnnotatedInject)
+                    .filter(method -> signatures.add(getSignature(method))).toList();
 
             allMethods.addAll(currentMethods);
             currentClass = currentClass.getSuperclass();
         }
+        stream(implementationClass.getMethods())
+                .filter(method -> method.getDeclaringClass().isInterface())
+                .filter(this::isAnnotatedInject)
+                .filter(method -> signatures.add(getSignature(method)))
+                .forEach(allMethods::add);
         return allMethods;
     }
 
+    private String getSignature(Method method) {
+        return method.getName() + Arrays.toString(method.getParameterTypes());
+    }
+
     private List<Field> getInjectionFields(final Class<T> implementationClass) {
         List<Field> injectionFields = new ArrayList<>();
         Class<?> currentClass = implementationClass;
         while (currentClass != Object.class) {
             Field[] declaredFields = currentClass.getDeclaredFields();
-            injectionFields.addAll(stream(declaredFields).filter(this::isAnnotatedInject).toList());
-            injectionFields.forEach(field -> {
+            List<Field> currentFields = stream(declaredFields).filter(this::isAnnotatedInject).toList();
+            currentFields.forEach(field -> {
+                inspectedMembers++;
                 if (Modifier.isFinal(field.getModifiers()))
                     throw new FinalDependencyFoundException();
             });
+            injectionFields.addAll(currentFields);
             currentClass = currentClass.getSuperclass();
         }
 
@@ -71,15 +212,53 @@ class DefaultComponentProvider<T> implements ComponentProvider<T> {
 
     @Override
     public T get(Context context) {
+        return get(context, new Object[0]);
+    }
+
+    T get(Context context, Object[] assistedArguments) {
+        return get(type -> context.get(type).orElse(null), assistedArguments);
+    }
+
+    @Override
+    public CompletableFuture<T> getAsync(Context context) {
+        Map<Class<?>, Optional<?>> resolved = new ConcurrentHashMap<>();
+        List<CompletableFuture<? extends Optional<?>>> dependencies = new ArrayList<>();
+        CompletableFuture<T> component = new CompletableFuture<>();
+
+        CompletableFuture<?>[] resolutions = getDependencies().stream().distinct().map(type -> {
+            CompletableFuture<? extends Optional<?>> dependency = context.getAsync(type);
+            dependencies.add(dependency);
+            return dependency.thenAccept(instance -> resolved.put(type, instance)).whenComplete((ignored, e) -> {
+                if (e != null) component.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            });
+        }).toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(resolutions).thenRun(() -> {
+            try {
+                component.complete(get(type -> resolved.get(type).orElse(null), new Object[0]));
+            } catch (RuntimeException e) {
+                component.completeExceptionally(e);
+            }
+        });
+        component.whenComplete((instance, e) -> {
+            if (e != null) dependencies.forEach(dependency -> dependency.cancel(true));
+        });
+        return component;
+    }
+
+    private T get(Function<Class<?>, Object> dependencies, Object[] assistedArguments) {
         try {
-            Object[] constructorParameters = stream(constructor.getParameterTypes())
-                    .map(parameterType -> context.get(parameterType).orElse(null))
-                    .toArray();
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            Object[] constructorParameters = new Object[parameterTypes.length];
+            for (int i = 0, assistedIndex = 0; i < parameterTypes.length; i++)
+                constructorParameters[i] = assistedParameters[i] ? assistedArguments[assistedIndex++]
+                        : dependencies.apply(parameterTypes[i]);
             T instance = constructor.newInstance(constructorParameters);
+            if (cachesField != null) cachesField.set(instance, new MethodCaches(cachedMethods));
             fields.forEach(field -> {
                 try {
                     Class<?> injectionType = field.getType();
-                    Object injectionComponent = context.get(injectionType).orElse(null);
+                    Object injectionComponent = dependencies.apply(injectionType);
                     field.setAccessible(true);
                     field.set(instance, injectionComponent);
                 } catch (IllegalAccessException e) {
@@ -87,22 +266,76 @@ class DefaultComponentProvider<T> implements ComponentProvider<T> {
                 }
             });
             methods.forEach(method -> {
-                Object[] parameters = stream(method.getParameterTypes()).map(type -> context.get(type).orElse(null)).toArray();
+                Object[] parameters = stream(method.getParameterTypes()).map(dependencies).toArray();
                 try {
                     method.invoke(instance, parameters);
                 } catch (IllegalAccessException | InvocationTargetException e) {
                     throw new UnsupportedOperationException(e);
                 }
             });
+            postConstructMethods.forEach(method -> invokeLifecycleMethod(instance, method));
             return instance;
         } catch (ReflectiveOperationException e) {
             throw new UnsupportedOperationException(e);
         }
     }
 
+    @Override
+    public Optional<Class<?>> getImplementationClass() {
+        return Optional.of(implementationClass);
+    }
+
+    @Override
+    public boolean isContextScoped() {
+        return !preDestroyMethods.isEmpty() || AutoCloseable.class.isAssignableFrom(implementationClass);
+    }
+
+    @Override
+    public boolean isDestroyable(T instance) {
+        return !preDestroyMethods.isEmpty() || instance instanceof AutoCloseable;
+    }
+
+    @Override
+    public void destroy(T instance) {
+        if (!preDestroyMethods.isEmpty()) {
+            preDestroyMethods.forEach(method -> invokeLifecycleMethod(instance, method));
+            return;
+        }
+        if (instance instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new UnsupportedOperationException(e);
+            }
+        }
+    }
+
+    private void invokeLifecycleMethod(T instance, Method method) {
+        try {
+            method.invoke(instance);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+
+    int getInspectedMembers() {
+        return inspectedMembers;
+    }
+
+    List<Class<?>> getAssistedParameterTypes() {
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        List<Class<?>> assistedParameterTypes = new ArrayList<>();
+        for (int i = 0; i < parameterTypes.length; i++)
+            if (assistedParameters[i]) assistedParameterTypes.add(parameterTypes[i]);
+        return assistedParameterTypes;
+    }
+
     @Override
     public List<Class<?>> getDependencies() {
-        List<Class<?>> dependencies = new ArrayList<>(Arrays.asList(constructor.getParameterTypes()));
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        List<Class<?>> dependencies = new ArrayList<>();
+        for (int i = 0; i < parameterTypes.length; i++)
+            if (!assistedParameters[i]) dependencies.add(parameterTypes[i]);
         dependencies.addAll(fields.stream().map(Field::getType).toList());
         methods.stream().map(Method::getParameterTypes).map(Arrays::asList).forEach(dependencies::addAll);
         return dependencies;
@@ -0,0 +1,103 @@
+package com.xavier.dependencyinjection;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+class MethodCache {
+
+    private static class Entry {
+
+        private final List<Object> key;
+        private final CompletableFuture<Object> value = new CompletableFuture<>();
+        private volatile long expiresAt;
+
+        Entry(List<Object> key) {
+            this.key = key;
+        }
+
+        boolean isExpired(long ttlNanos, long now) {
+            return ttlNanos > 0 && value.isDone() && now - expiresAt >= 0;
+        }
+    }
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final Map<List<Object>, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    MethodCache(Cached cached) {
+        this(cached, System::nanoTime);
+    }
+
+    MethodCache(Cached cached, LongSupplier ticker) {
+        maxSize = cached.maxSize();
+        ttlNanos = cached.unit().toNanos(cached.ttl());
+        this.ticker = ticker;
+    }
+
+    Object get(Object[] arguments, Callable<?> method) throws Exception {
+        List<Object> key = Arrays.asList(arguments);
+        Entry created = new Entry(key);
+        Entry[] replaced = new Entry[1];
+        Entry entry = entries.compute(key, (ignored, existing) -> {
+            if (existing != null && !existing.isExpired(ttlNanos, ticker.getAsLong())) return existing;
+            replaced[0] = existing;
+            return created;
+        });
+
+        if (entry != created) {
+            hits.increment();
+            return join(entry);
+        }
+
+        misses.increment();
+        if (replaced[0] != null) insertionOrder.remove(replaced[0]);
+        insertionOrder.add(created);
+        evict();
+        try {
+            Object value = method.call();
+            created.expiresAt = ticker.getAsLong() + ttlNanos;
+            created.value.complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            entries.remove(key, created);
+            insertionOrder.remove(created);
+            created.value.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void evict() {
+        while (entries.size() > maxSize) {
+            Entry eldest = insertionOrder.poll();
+            if (eldest == null) break;
+            entries.remove(eldest.key, eldest);
+        }
+    }
+
+    private Object join(Entry entry) throws Exception {
+        try {
+            return entry.value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+
+    CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum());
+    }
+}
@@ -0,0 +1,40 @@
+package com.xavier.dependencyinjection;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class MethodCaches {
+
+    private final Map<Method, MethodCache> caches = new ConcurrentHashMap<>();
+
+    MethodCaches(Map<Method, Cached> cachedMethods) {
+        cachedMethods.forEach((method, cached) -> caches.put(method, new MethodCache(cached)));
+    }
+
+    public CacheStats getStats(String methodName, Class<?>... parameterTypes) {
+        return caches.entrySet().stream()
+                .filter(entry -> isSameSignature(entry.getKey(), methodName, parameterTypes))
+                .map(entry -> entry.getValue().getStats())
+                .findFirst().orElseThrow(IllegalArgumentException::new);
+    }
+
+    Object invoke(Method method, Object[] arguments, Callable<?> original) throws Exception {
+        MethodCache cache = caches.get(method);
+        if (cache == null) {
+            cache = caches.entrySet().stream()
+                    .filter(entry -> isSameSignature(entry.getKey(), method.getName(), method.getParameterTypes()))
+                    .map(Map.Entry::getValue)
+                    .findFirst().orElse(null);
+            if (cache == null) return original.call();
+            caches.put(method, cache);
+        }
+        return cache.get(arguments, original);
+    }
+
+    private boolean isSameSignature(Method method, String methodName, Class<?>[] parameterTypes) {
+        return method.getName().equals(methodName) && Arrays.equals(method.getParameterTypes(), parameterTypes);
+    }
+}
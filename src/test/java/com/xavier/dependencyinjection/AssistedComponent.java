@@ -0,0 +1,10 @@
+package com.xavier.dependencyinjection;
+
+import jakarta.inject.Inject;
+
+public record AssistedComponent(@Assisted String requestId, Dependency dependency) implements Component {
+
+    @Inject
+    public AssistedComponent {
+    }
+}
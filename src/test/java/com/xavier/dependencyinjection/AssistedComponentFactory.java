@@ -0,0 +1,6 @@
+package com.xavier.dependencyinjection;
+
+public interface AssistedComponentFactory {
+
+    Component create(String requestId);
+}
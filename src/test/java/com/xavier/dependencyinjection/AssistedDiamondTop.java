@@ -0,0 +1,10 @@
+package com.xavier.dependencyinjection;
+
+import jakarta.inject.Inject;
+
+public record AssistedDiamondTop(@Assisted String requestId, Dependency left, AnotherDependency right) implements Component {
+
+    @Inject
+    public AssistedDiamondTop {
+    }
+}
@@ -0,0 +1,9 @@
+package com.xavier.dependencyinjection;
+
+public class AutoCloseableDependency implements Dependency, AutoCloseable {
+
+    @Override
+    public void close() {
+        LifecycleComponent.EVENTS.add("dependency closed");
+    }
+}
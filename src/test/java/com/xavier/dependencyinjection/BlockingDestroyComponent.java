@@ -0,0 +1,19 @@
+package com.xavier.dependencyinjection;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+
+import java.util.concurrent.CountDownLatch;
+
+public class BlockingDestroyComponent implements Component {
+
+    static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+    @Inject
+    private Dependency dependency;
+
+    @PreDestroy
+    void destroy() throws InterruptedException {
+        RELEASE.await();
+    }
+}
@@ -0,0 +1,32 @@
+package com.xavier.dependencyinjection;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ComponentWithCachedMethods implements Component {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Cached(maxSize = 2)
+    public String describe(String name) {
+        return name + calls.incrementAndGet();
+    }
+
+    @Cached(ttl = 1, unit = TimeUnit.SECONDS)
+    public int next() {
+        return calls.incrementAndGet();
+    }
+
+    @Cached(maxSize = 2, ttl = 1, unit = TimeUnit.SECONDS)
+    public String expiring(String name) {
+        return name + calls.incrementAndGet();
+    }
+
+    public int uncached() {
+        return calls.incrementAndGet();
+    }
+
+    public int getCalls() {
+        return calls.get();
+    }
+}
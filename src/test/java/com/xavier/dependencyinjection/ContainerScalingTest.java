@@ -0,0 +1,149 @@
+package com.xavier.dependencyinjection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContainerScalingTest {
+    private ContextConfig contextConfig;
+
+    @BeforeEach
+    void setup() {
+        contextConfig = new ContextConfig();
+    }
+
+    // 校验依赖链时，每个组件的依赖只读取常数次
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    void should_validate_chain_in_linear_dependency_lookups(int size) {
+        SyntheticGraph graph = SyntheticGraph.chain(size);
+        graph.bindTo(contextConfig);
+
+        assertDoesNotThrow(contextConfig::getContext);
+        assertTrue(graph.getDependencyLookups() <= 2 * size);
+    }
+
+    // 校验菱形依赖时，共享的依赖不重复校验
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 33_333})
+    void should_validate_diamonds_in_linear_dependency_lookups(int levels) {
+        SyntheticGraph graph = SyntheticGraph.diamonds(levels);
+        graph.bindTo(contextConfig);
+
+        assertDoesNotThrow(contextConfig::getContext);
+        assertTrue(graph.getDependencyLookups() <= 2 * graph.size());
+    }
+
+    // 校验稠密有向无环图时，每个组件的依赖只读取常数次
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    void should_validate_dense_dag_in_linear_dependency_lookups(int size) {
+        SyntheticGraph graph = SyntheticGraph.denseDag(size, 8, size);
+        graph.bindTo(contextConfig);
+
+        assertDoesNotThrow(contextConfig::getContext);
+        assertTrue(graph.getDependencyLookups() <= 2 * size);
+    }
+
+    // 在大规模依赖图中找到植入的循环依赖
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3})
+    void should_throw_exception_if_cyclic_dependency_seeded_in_chain(long seed) {
+        SyntheticGraph graph = SyntheticGraph.chain(100_000).withCycle(seed);
+        graph.bindTo(contextConfig);
+
+        CyclicDependencyFoundException exception = assertThrows(CyclicDependencyFoundException.class, contextConfig::getContext);
+        List<Class<?>> dependencies = exception.getDependencies();
+        assertSame(dependencies.get(0), dependencies.get(dependencies.size() - 1));
+        assertTrue(graph.getDependencyLookups() <= 2 * graph.size());
+    }
+
+    // 在大规模稠密有向无环图中找到植入的循环依赖
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3})
+    void should_throw_exception_if_cyclic_dependency_seeded_in_dense_dag(long seed) {
+        SyntheticGraph graph = SyntheticGraph.denseDag(100_000, 8, seed).withCycle(seed);
+        graph.bindTo(contextConfig);
+
+        CyclicDependencyFoundException exception = assertThrows(CyclicDependencyFoundException.class, contextConfig::getContext);
+        List<Class<?>> dependencies = exception.getDependencies();
+        assertSame(dependencies.get(0), dependencies.get(dependencies.size() - 1));
+        assertTrue(graph.getDependencyLookups() <= 2 * graph.size());
+    }
+
+    // 在解析范围内，每个组件只生成一次
+    @Test
+    void should_create_each_diamond_component_once_in_resolution_scope() {
+        SyntheticGraph graph = SyntheticGraph.diamonds(200);
+        graph.bindTo(contextConfig);
+        contextConfig.setResolutionScoped(true);
+
+        assertTrue(contextConfig.getContext().get(graph.root()).isPresent());
+        assertEquals(graph.size(), graph.getInstances());
+    }
+
+    // 批量解析稠密有向无环图时，每个组件只生成一次
+    @Test
+    void should_create_each_dense_dag_component_once_in_batch_resolution() {
+        SyntheticGraph graph = SyntheticGraph.denseDag(10_000, 8, 1);
+        graph.bindTo(contextConfig);
+
+        assertEquals(graph.size(), contextConfig.getContext().getAll(graph.nodes()).size());
+        assertEquals(graph.size(), graph.getInstances());
+    }
+
+    // 关闭大规模依赖图的容器时，每个组件只销毁一次，且在依赖它的组件之后销毁
+    @Test
+    void should_destroy_each_component_once_after_its_dependents_if_large_graph_closed() {
+        SyntheticGraph graph = SyntheticGraph.denseDag(100_000, 8, 1).destroyable();
+        graph.bindTo(contextConfig);
+
+        ContextConfig.Context context = contextConfig.getContext();
+        assertEquals(graph.size(), context.getAll(graph.nodes()).size());
+        context.close();
+
+        List<Integer> destructions = graph.getDestructions();
+        assertEquals(graph.size(), destructions.size());
+        int[] order = new int[graph.size()];
+        Arrays.fill(order, -1);
+        for (int position = 0; position < destructions.size(); position++) {
+            assertEquals(-1, order[destructions.get(position)]);
+            order[destructions.get(position)] = position;
+        }
+        for (int index = 0; index < graph.size(); index++)
+            for (int dependency : graph.dependencies(index))
+                assertTrue(order[index] < order[dependency]);
+    }
+
+    // 深层继承结构中，每个 Inject 标注的方法只调用一次，且检查的成员数量随深度线性增长
+    @ParameterizedTest
+    @ValueSource(ints = {25, 50, 100, 200})
+    void should_inspect_deep_hierarchy_in_linear_cost(int depth, @TempDir Path directory) throws IOException {
+        int methodsPerLevel = 5;
+        Class<?> leaf = SyntheticGraph.deepHierarchy(depth, methodsPerLevel, directory);
+        SyntheticGraph.INJECTIONS.set(0);
+
+        DefaultComponentProvider<?> provider = new DefaultComponentProvider<>(leaf);
+        assertEquals(depth * (methodsPerLevel + 1), provider.getDependencies().size());
+        assertTrue(provider.getInspectedMembers() <= 2 * depth * (methodsPerLevel + 1));
+
+        contextConfig.bind(Dependency.class, Mockito.mock(Dependency.class));
+        bind(leaf);
+        assertTrue(contextConfig.getContext().get(leaf).isPresent());
+        assertEquals(depth * methodsPerLevel, SyntheticGraph.INJECTIONS.get());
+    }
+
+    private <T> void bind(Class<T> componentClass) {
+        contextConfig.bind(componentClass, componentClass);
+    }
+}
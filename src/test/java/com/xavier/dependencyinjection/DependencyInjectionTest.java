@@ -4,10 +4,25 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -317,6 +332,645 @@ public class DependencyInjectionTest {
         }
     }
 
+    // 生命周期回调
+    @Nested
+    class LifecycleCallback {
+
+        @BeforeEach
+        void setup() {
+            contextConfig = new ContextConfig();
+            LifecycleComponent.EVENTS.clear();
+        }
+
+        // 完成依赖注入后，调用 PostConstruct 标注的方法
+        @Test
+        void should_call_post_construct_method_after_injection() {
+            contextConfig.bind(Dependency.class, AutoCloseableDependency.class);
+            contextConfig.bind(Component.class, LifecycleComponent.class);
+
+            contextConfig.getContext().get(Component.class);
+            assertEquals(List.of("constructed"), LifecycleComponent.EVENTS);
+        }
+
+        // 关闭容器时，调用 PreDestroy 标注的方法
+        @Test
+        void should_call_pre_destroy_method_if_context_closed() {
+            contextConfig.bind(Dependency.class, Mockito.mock(Dependency.class));
+            contextConfig.bind(Component.class, LifecycleComponent.class);
+
+            ContextConfig.Context context = contextConfig.getContext();
+            context.get(Component.class);
+            context.close();
+            assertEquals(List.of("constructed", "component destroyed"), LifecycleComponent.EVENTS);
+        }
+
+        // 子类覆盖的生命周期方法只调用一次
+        @Test
+        void should_call_overridden_lifecycle_methods_once() {
+            contextConfig.bind(Dependency.class, Mockito.mock(Dependency.class));
+            contextConfig.bind(Component.class, OverrideLifecycleComponent.class);
+
+            ContextConfig.Context context = contextConfig.getContext();
+            context.get(Component.class);
+            context.close();
+            assertEquals(List.of("override constructed", "override destroyed"), LifecycleComponent.EVENTS);
+        }
+
+        // 没有 PreDestroy 标注的方法时，关闭 AutoCloseable 组件
+        @Test
+        void should_close_auto_closeable_component_if_context_closed() {
+            contextConfig.bind(Dependency.class, AutoCloseableDependency.class);
+
+            ContextConfig.Context context = contextConfig.getContext();
+            context.get(Dependency.class);
+            context.close();
+            assertEquals(List.of("dependency closed"), LifecycleComponent.EVENTS);
+        }
+
+        // 由组件实例注册的组件，不由容器销毁
+        @Test
+        void should_not_destroy_instance_component() {
+            contextConfig.bind(Dependency.class, new AutoCloseableDependency());
+
+            ContextConfig.Context context = contextConfig.getContext();
+            context.get(Dependency.class);
+            context.close();
+            assertTrue(LifecycleComponent.EVENTS.isEmpty());
+        }
+
+        // 按照依赖关系的逆序销毁组件
+        @Test
+        void should_destroy_component_before_its_dependencies() {
+            contextConfig.bind(Dependency.class, AutoCloseableDependency.class);
+            contextConfig.bind(Component.class, LifecycleComponent.class);
+
+            ContextConfig.Context context = contextConfig.getContext();
+            context.get(Component.class);
+            context.close();
+            assertEquals(List.of("constructed", "component destroyed", "dependency closed"), LifecycleComponent.EVENTS);
+        }
+
+        // 组件销毁超时后，继续销毁其依赖
+        @Test
+        void should_continue_destroying_dependencies_if_component_destroy_timeout() {
+            contextConfig.setDestroyTimeout(Duration.ofMillis(100));
+            contextConfig.bind(Dependency.class, AutoCloseableDependency.class);
+            contextConfig.bind(Component.class, BlockingDestroyComponent.class);
+
+            ContextConfig.Context context = contextConfig.getContext();
+            context.get(Component.class);
+            context.close();
+            assertEquals(List.of("dependency closed"), LifecycleComponent.EVENTS);
+            BlockingDestroyComponent.RELEASE.countDown();
+        }
+
+        // 需要销毁的组件在容器范围内只创建一次，容器只持有该实例
+        @Test
+        void should_create_destroyable_component_once_per_context() {
+            contextConfig.bind(Dependency.class, AutoCloseableDependency.class);
+            contextConfig.bind(Component.class, LifecycleComponent.class);
+
+            ContextConfig.Context context = contextConfig.getContext();
+            Component component = context.get(Component.class).get();
+            for (int i = 0; i < 100; i++) assertSame(component, context.get(Component.class).get());
+            assertSame(component, context.getAsync(Component.class).join().get());
+            context.close();
+            assertEquals(List.of("constructed", "component destroyed", "dependency closed"), LifecycleComponent.EVENTS);
+        }
+
+        // 不同容器中需要销毁的组件相互独立
+        @Test
+        void should_not_share_destroyable_component_between_contexts() {
+            contextConfig.bind(Dependency.class, AutoCloseableDependency.class);
+
+            assertNotSame(contextConfig.getContext().get(Dependency.class).get(), contextConfig.getContext().get(Dependency.class).get());
+        }
+
+        // 某个实例销毁失败时，继续销毁其余实例，并在最后抛出异常
+        @Test
+        void should_destroy_remaining_instances_if_one_destroy_failed() {
+            contextConfig.bind(Component.class, FailingDestroyComponent.class);
+            contextConfig.bind(FailingDestroyComponent.class, FailingDestroyComponent.class);
+
+            ContextConfig.Context context = contextConfig.getContext();
+            context.get(Component.class);
+            context.get(FailingDestroyComponent.class);
+            UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class, context::close);
+            assertEquals(List.of("destroy failed", "destroy failed"), LifecycleComponent.EVENTS);
+            assertEquals(1, exception.getSuppressed().length);
+        }
+    }
+
+    // 辅助注入工厂
+    @Nested
+    class AssistedFactoryBind {
+
+        @BeforeEach
+        void setup() {
+            contextConfig = new ContextConfig();
+        }
+
+        // 工厂方法的参数作为 Assisted 标注的构造参数，其余构造参数由容器注入
+        @Test
+        void should_create_component_with_assisted_and_injected_parameters() {
+            Dependency dependency = Mockito.mock(Dependency.class);
+            contextConfig.bind(Dependency.class, dependency);
+            contextConfig.bindFactory(AssistedComponentFactory.class, AssistedComponent.class);
+
+            Optional<AssistedComponentFactory> factory = contextConfig.getContext().get(AssistedComponentFactory.class);
+            assertTrue(factory.isPresent());
+            AssistedComponent component = (AssistedComponent) factory.get().create("request-1");
+            assertEquals("request-1", component.requestId());
+            assertSame(dependency, component.dependency());
+        }
+
+        // 每次调用工厂方法都生成新的组件实例
+        @Test
+        void should_create_new_component_for_each_factory_call() {
+            contextConfig.bind(Dependency.class, Mockito.mock(Dependency.class));
+            contextConfig.bindFactory(AssistedComponentFactory.class, AssistedComponent.class);
+
+            AssistedComponentFactory factory = contextConfig.getContext().get(AssistedComponentFactory.class).get();
+            assertNotSame(factory.create("request-1"), factory.create("request-1"));
+        }
+
+        // 同一容器内只生成一个工厂实例
+        @Test
+        void should_create_factory_once_per_context() {
+            contextConfig.bind(Dependency.class, Mockito.mock(Dependency.class));
+            contextConfig.bindFactory(AssistedComponentFactory.class, AssistedComponent.class);
+
+            ContextConfig.Context context = contextConfig.getContext();
+            assertSame(context.get(AssistedComponentFactory.class).get(), context.get(AssistedComponentFactory.class).get());
+            assertNotSame(context.get(AssistedComponentFactory.class).get(), contextConfig.getContext().get(AssistedComponentFactory.class).get());
+        }
+
+        // 如果组件需要的依赖不存在，则抛出异常
+        @Test
+        void should_throw_exception_if_factory_dependency_not_exist() {
+            contextConfig.bindFactory(AssistedComponentFactory.class, AssistedComponent.class);
+
+            DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class, contextConfig::getContext);
+            assertEquals("AssistedComponentFactory -> Dependency not found", exception.getMessage());
+        }
+
+        // 如果工厂方法的参数与 Assisted 标注的参数不一致，则抛出异常
+        @Test
+        void should_throw_exception_if_factory_method_not_match_assisted_parameters() {
+            assertThrows(UnsupportedOperationException.class, () -> contextConfig.bindFactory(MismatchedAssistedComponentFactory.class, AssistedComponent.class));
+        }
+
+        // 如果直接注册包含 Assisted 参数的组件，则抛出异常
+        @Test
+        void should_throw_exception_if_bind_assisted_component_directly() {
+            assertThrows(UnsupportedOperationException.class, () -> contextConfig.bind(Component.class, AssistedComponent.class));
+        }
+    }
+
+    // 单次解析范围
+    @Nested
+    class ResolutionScopeBind {
+
+        @BeforeEach
+        void setup() {
+            contextConfig = new ContextConfig();
+            contextConfig.bind(DiamondBottom.class, DiamondBottom.class);
+            contextConfig.bind(Dependency.class, DiamondLeft.class);
+            contextConfig.bind(AnotherDependency.class, DiamondRight.class);
+            contextConfig.bind(Component.class, DiamondTop.class);
+            DiamondBottom.INSTANCES.set(0);
+        }
+
+        // 默认情况下，每个依赖都生成新的组件实例
+        @Test
+        void should_create_shared_dependency_for_each_dependent_by_default() {
+            DiamondTop component = (DiamondTop) contextConfig.getContext().get(Component.class).get();
+
+            assertEquals(2, DiamondBottom.INSTANCES.get());
+            assertNotSame(((DiamondLeft) component.left()).bottom(), ((DiamondRight) component.right()).bottom());
+        }
+
+        // 开启解析范围后，单次解析中共享的依赖只生成一次
+        @Test
+        void should_create_shared_dependency_once_in_resolution_scope() {
+            contextConfig.setResolutionScoped(true);
+
+            DiamondTop component = (DiamondTop) contextConfig.getContext().get(Component.class).get();
+
+            assertEquals(1, DiamondBottom.INSTANCES.get());
+            assertSame(((DiamondLeft) component.left()).bottom(), ((DiamondRight) component.right()).bottom());
+        }
+
+        // 开启解析范围后，工厂的每次调用为一次解析，共享的依赖只生成一次
+        @Test
+        void should_create_shared_dependency_once_per_factory_call_in_resolution_scope() {
+            contextConfig.setResolutionScoped(true);
+            contextConfig.bindFactory(AssistedComponentFactory.class, AssistedDiamondTop.class);
+            AssistedComponentFactory factory = contextConfig.getContext().get(AssistedComponentFactory.class).get();
+
+            AssistedDiamondTop first = (AssistedDiamondTop) factory.create("first");
+            assertEquals(1, DiamondBottom.INSTANCES.get());
+            assertSame(((DiamondLeft) first.left()).bottom(), ((DiamondRight) first.right()).bottom());
+
+            AssistedDiamondTop second = (AssistedDiamondTop) factory.create("second");
+            assertEquals(2, DiamondBottom.INSTANCES.get());
+            assertNotSame(((DiamondLeft) first.left()).bottom(), ((DiamondLeft) second.left()).bottom());
+        }
+
+        // 解析范围不跨越多次解析
+        @Test
+        void should_not_share_dependency_between_resolutions() {
+            contextConfig.setResolutionScoped(true);
+            ContextConfig.Context context = contextConfig.getContext();
+
+            DiamondTop first = (DiamondTop) context.get(Component.class).get();
+            DiamondTop second = (DiamondTop) context.get(Component.class).get();
+
+            assertEquals(2, DiamondBottom.INSTANCES.get());
+            assertNotSame(((DiamondLeft) first.left()).bottom(), ((DiamondLeft) second.left()).bottom());
+        }
+
+        // 批量解析的多个组件共享同一次解析
+        @Test
+        void should_share_dependencies_between_components_in_batch_resolution() {
+            Map<Class<?>, Object> components = contextConfig.getContext().getAll(Component.class, Dependency.class, DiamondBottom.class);
+
+            assertEquals(List.of(Component.class, Dependency.class, DiamondBottom.class), List.copyOf(components.keySet()));
+            assertEquals(1, DiamondBottom.INSTANCES.get());
+            DiamondTop component = (DiamondTop) components.get(Component.class);
+            assertSame(component.left(), components.get(Dependency.class));
+            assertSame(components.get(DiamondBottom.class), ((DiamondRight) component.right()).bottom());
+        }
+
+        // 批量解析时忽略未注册的组件
+        @Test
+        void should_ignore_not_bound_component_in_batch_resolution() {
+            Map<Class<?>, Object> components = contextConfig.getContext().getAll(Component.class, String.class);
+
+            assertEquals(List.of(Component.class), List.copyOf(components.keySet()));
+        }
+    }
+
+    // 异步组件
+    @Nested
+    class AsyncComponentBind {
+
+        @BeforeEach
+        void setup() {
+            contextConfig = new ContextConfig();
+        }
+
+        // 通过异步提供的组件，可作为依赖注入
+        @Test
+        void should_inject_async_component_as_dependency() {
+            Dependency dependency = Mockito.mock(Dependency.class);
+            contextConfig.bindAsync(Dependency.class, () -> CompletableFuture.supplyAsync(() -> dependency));
+            contextConfig.bind(Component.class, InjectionConstructorComponent.class);
+
+            Optional<Component> component = contextConfig.getContext().getAsync(Component.class).join();
+            assertTrue(component.isPresent());
+            assertSame(dependency, ((InjectionConstructorComponent) component.get()).dependency());
+        }
+
+        // 同步获取组件时，等待异步依赖完成
+        @Test
+        void should_wait_for_async_dependency_if_get_component_synchronously() {
+            Dependency dependency = Mockito.mock(Dependency.class);
+            contextConfig.bindAsync(Dependency.class, () -> CompletableFuture.supplyAsync(() -> dependency));
+            contextConfig.bind(Component.class, InjectionConstructorComponent.class);
+
+            Optional<Component> component = contextConfig.getContext().get(Component.class);
+            assertTrue(component.isPresent());
+            assertSame(dependency, ((InjectionConstructorComponent) component.get()).dependency());
+        }
+
+        // 相互独立的异步依赖同时初始化
+        @Test
+        void should_initialize_independent_async_dependencies_concurrently() throws Exception {
+            CompletableFuture<Dependency> dependency = new CompletableFuture<>();
+            contextConfig.bindAsync(Dependency.class, () -> dependency);
+            contextConfig.bindAsync(AnotherDependency.class, () -> {
+                dependency.complete(Mockito.mock(Dependency.class));
+                return CompletableFuture.completedFuture(Mockito.mock(AnotherDependency.class));
+            });
+            contextConfig.bind(Component.class, DiamondTop.class);
+
+            Optional<Component> component = contextConfig.getContext().getAsync(Component.class).get(1, TimeUnit.SECONDS);
+            assertTrue(component.isPresent());
+            assertSame(dependency.join(), ((DiamondTop) component.get()).left());
+        }
+
+        // 如果异步依赖失败，则组件获取失败
+        @Test
+        void should_fail_if_async_dependency_failed() {
+            IllegalStateException failure = new IllegalStateException();
+            contextConfig.bindAsync(Dependency.class, () -> CompletableFuture.failedFuture(failure));
+            contextConfig.bind(Component.class, InjectionConstructorComponent.class);
+
+            CompletableFuture<Optional<Component>> component = contextConfig.getContext().getAsync(Component.class);
+            CompletionException exception = assertThrows(CompletionException.class, component::join);
+            assertSame(failure, exception.getCause());
+        }
+
+        // 取消组件获取时，不影响异步组件提供的共享结果
+        @Test
+        void should_not_cancel_shared_async_dependency_if_component_cancelled() {
+            CompletableFuture<Dependency> dependency = new CompletableFuture<>();
+            contextConfig.bindAsync(Dependency.class, () -> dependency);
+            contextConfig.bind(Component.class, InjectionConstructorComponent.class);
+            ContextConfig.Context context = contextConfig.getContext();
+
+            CompletableFuture<Optional<Component>> cancelled = context.getAsync(Component.class);
+            cancelled.cancel(true);
+            assertTrue(cancelled.isCancelled());
+            assertFalse(dependency.isCancelled());
+
+            dependency.complete(Mockito.mock(Dependency.class));
+            assertTrue(context.getAsync(Component.class).join().isPresent());
+        }
+
+        // 如果异步组件提供方抛出异常，则返回失败的结果
+        @Test
+        void should_fail_if_async_supplier_throws_exception() {
+            IllegalStateException failure = new IllegalStateException();
+            contextConfig.bindAsync(Dependency.class, () -> {
+                throw failure;
+            });
+            contextConfig.bind(Component.class, InjectionConstructorComponent.class);
+
+            CompletableFuture<Optional<Component>> component = contextConfig.getContext().getAsync(Component.class);
+            CompletionException exception = assertThrows(CompletionException.class, component::join);
+            assertSame(failure, exception.getCause());
+        }
+
+        // 同步获取失败的异步组件时，抛出原始异常
+        @Test
+        void should_throw_original_exception_if_get_failed_async_component_synchronously() {
+            IllegalStateException failure = new IllegalStateException();
+            contextConfig.bindAsync(Dependency.class, () -> CompletableFuture.failedFuture(failure));
+
+            assertSame(failure, assertThrows(IllegalStateException.class, () -> contextConfig.getContext().get(Dependency.class)));
+        }
+    }
+
+    // 方法结果缓存
+    @Nested
+    class CachedMethodBind {
+
+        private ComponentWithCachedMethods component;
+
+        @BeforeEach
+        void setup() {
+            contextConfig = new ContextConfig();
+            contextConfig.bind(Component.class, ComponentWithCachedMethods.class);
+            component = (ComponentWithCachedMethods) contextConfig.getContext().get(Component.class).get();
+        }
+
+        // 相同参数的调用返回缓存的结果
+        @Test
+        void should_return_cached_result_if_called_with_same_arguments() {
+            assertEquals("a1", component.describe("a"));
+            assertEquals("a1", component.describe("a"));
+            assertEquals("b2", component.describe("b"));
+
+            assertEquals(2, component.getCalls());
+            assertEquals(new CacheStats(1, 2), ((CachedComponent) component).getMethodCaches().getStats("describe", String.class));
+        }
+
+        // 超过缓存容量时，淘汰最早的结果
+        @Test
+        void should_evict_eldest_result_if_cache_exceeds_max_size() {
+            component.describe("a");
+            component.describe("b");
+            component.describe("c");
+
+            assertEquals("a4", component.describe("a"));
+        }
+
+        // 缓存结果超过有效期后重新调用
+        @Test
+        void should_call_method_again_if_cached_result_expired() throws Exception {
+            AtomicLong ticker = new AtomicLong();
+            MethodCache cache = new MethodCache(getCached("next"), ticker::get);
+            AtomicInteger calls = new AtomicInteger();
+
+            assertEquals(1, cache.get(new Object[0], calls::incrementAndGet));
+            ticker.addAndGet(TimeUnit.SECONDS.toNanos(1) - 1);
+            assertEquals(1, cache.get(new Object[0], calls::incrementAndGet));
+            ticker.incrementAndGet();
+            assertEquals(2, cache.get(new Object[0], calls::incrementAndGet));
+        }
+
+        // 过期后重新计算的结果最后被淘汰
+        @Test
+        void should_evict_refreshed_result_after_older_results() throws Exception {
+            AtomicLong ticker = new AtomicLong();
+            MethodCache cache = new MethodCache(getCached("expiring", String.class), ticker::get);
+            AtomicInteger calls = new AtomicInteger();
+
+            assertEquals("a1", cache.get(new Object[]{"a"}, () -> "a" + calls.incrementAndGet()));
+            assertEquals("b2", cache.get(new Object[]{"b"}, () -> "b" + calls.incrementAndGet()));
+            ticker.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            assertEquals("a3", cache.get(new Object[]{"a"}, () -> "a" + calls.incrementAndGet()));
+            assertEquals("c4", cache.get(new Object[]{"c"}, () -> "c" + calls.incrementAndGet()));
+
+            assertEquals("a3", cache.get(new Object[]{"a"}, () -> "a" + calls.incrementAndGet()));
+            assertEquals("b5", cache.get(new Object[]{"b"}, () -> "b" + calls.incrementAndGet()));
+        }
+
+        // 并发调用相同参数且未命中缓存时，只调用一次方法
+        @Test
+        void should_call_method_once_if_same_arguments_missed_concurrently() throws Exception {
+            MethodCache cache = new MethodCache(getCached("describe", String.class));
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+            Callable<String> method = () -> {
+                calls.incrementAndGet();
+                release.await();
+                return "a";
+            };
+
+            CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> get(cache, method));
+            CompletableFuture<Object> second = CompletableFuture.supplyAsync(() -> get(cache, method));
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                while (cache.getStats().hits() + cache.getStats().misses() < 2) Thread.onSpinWait();
+            });
+            release.countDown();
+
+            assertEquals("a", first.join());
+            assertEquals("a", second.join());
+            assertEquals(1, calls.get());
+            assertEquals(new CacheStats(1, 1), cache.getStats());
+        }
+
+        private Cached getCached(String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
+            return ComponentWithCachedMethods.class.getMethod(methodName, parameterTypes).getAnnotation(Cached.class);
+        }
+
+        private Object get(MethodCache cache, Callable<?> method) {
+            try {
+                return cache.get(new Object[]{"a"}, method);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // 没有 Cached 标注的方法不被缓存
+        @Test
+        void should_not_cache_method_without_cached_annotation() {
+            assertEquals(1, component.uncached());
+            assertEquals(2, component.uncached());
+        }
+
+        // 每个组件实例拥有独立的缓存
+        @Test
+        void should_not_share_cache_between_component_instances() {
+            ComponentWithCachedMethods another = (ComponentWithCachedMethods) contextConfig.getContext().get(Component.class).get();
+            component.describe("a");
+
+            assertEquals("a1", another.describe("a"));
+            assertEquals(new CacheStats(0, 1), ((CachedComponent) another).getMethodCaches().getStats("describe", String.class));
+        }
+
+        // 同一组件类只生成一次子类，多次绑定共享该子类
+        @Test
+        void should_generate_subclass_once_per_component_class() {
+            ContextConfig another = new ContextConfig();
+            another.bind(Component.class, ComponentWithCachedMethods.class);
+
+            assertSame(component.getClass(), another.getContext().get(Component.class).get().getClass());
+        }
+
+        // 没有 Cached 标注方法的组件不生成子类
+        @Test
+        void should_not_generate_subclass_if_no_cached_method() {
+            contextConfig.bind(Component.class, DefaultConstructorComponent.class);
+
+            assertSame(DefaultConstructorComponent.class, contextConfig.getContext().get(Component.class).get().getClass());
+        }
+
+        // 如果包含 Cached 标注方法的组件为 final，则抛出异常
+        @Test
+        void should_throw_exception_if_component_with_cached_method_is_final() {
+            assertThrows(UnsupportedOperationException.class, () -> contextConfig.bind(Component.class, FinalComponentWithCachedMethod.class));
+        }
+    }
+
+    // 类加载预热
+    @Nested
+    class ClassLoadingProfileRecord {
+
+        private ClassLoadingProfile profile;
+
+        @BeforeEach
+        void setup() {
+            contextConfig = new ContextConfig();
+            profile = new ClassLoadingProfile();
+            contextConfig.setClassLoadingProfile(profile);
+            contextConfig.bind(String.class, "this is a string component");
+            contextConfig.bind(Dependency.class, StringConstructorDependency.class);
+            contextConfig.bind(Component.class, InjectionConstructorComponent.class);
+        }
+
+        // 记录容器解析时加载的组件类，父类型先于子类型
+        @Test
+        void should_record_component_classes_after_their_super_types() {
+            contextConfig.getContext().get(Component.class);
+
+            List<Class<?>> classes = profile.getClasses();
+            assertTrue(classes.contains(StringConstructorDependency.class));
+            assertTrue(classes.indexOf(Component.class) < classes.indexOf(InjectionConstructorComponent.class));
+            assertTrue(classes.indexOf(Dependency.class) < classes.indexOf(StringConstructorDependency.class));
+        }
+
+        // 创建容器时按照绑定顺序记录组件的实现类
+        @Test
+        void should_record_implementation_classes_when_context_created() {
+            contextConfig.getContext();
+
+            List<Class<?>> classes = profile.getClasses();
+            assertTrue(classes.indexOf(Dependency.class) < classes.indexOf(StringConstructorDependency.class));
+            assertTrue(classes.indexOf(StringConstructorDependency.class) < classes.indexOf(Component.class));
+            assertTrue(classes.indexOf(Component.class) < classes.indexOf(InjectionConstructorComponent.class));
+        }
+
+        // 记录工厂创建的组件类
+        @Test
+        void should_record_component_classes_created_by_factory() {
+            contextConfig.bindFactory(AssistedComponentFactory.class, AssistedComponent.class);
+
+            contextConfig.getContext().get(AssistedComponentFactory.class).get().create("request");
+            assertTrue(profile.getClasses().contains(AssistedComponent.class));
+        }
+
+        // 不记录运行时生成的类
+        @Test
+        void should_not_record_generated_classes() {
+            AnotherDependency dependency = Mockito.mock(AnotherDependency.class);
+            contextConfig.bind(AnotherDependency.class, dependency);
+
+            contextConfig.getContext().get(AnotherDependency.class);
+            assertTrue(profile.getClasses().contains(AnotherDependency.class));
+            assertFalse(profile.getClasses().contains(dependency.getClass()));
+        }
+
+        // 以 AppCDS 格式输出类列表
+        @Test
+        void should_write_class_list_with_internal_class_names(@TempDir Path directory) throws IOException {
+            contextConfig.getContext().get(Component.class);
+            Path classList = directory.resolve("classes.lst");
+
+            profile.writeClassList(classList);
+            List<String> classNames = Files.readAllLines(classList);
+            assertTrue(classNames.contains("com/xavier/dependencyinjection/InjectionConstructorComponent"));
+            assertEquals(profile.getClasses().size(), classNames.size());
+        }
+
+        // 按照预热列表加载类，忽略不存在的类
+        @Test
+        void should_pre_touch_classes_in_list(@TempDir Path directory) throws IOException {
+            contextConfig.getContext().get(Component.class);
+            Path preTouchList = directory.resolve("pre-touch.lst");
+            profile.writePreTouchList(preTouchList);
+            Files.writeString(preTouchList, "com.xavier.dependencyinjection.NotExistComponent\n", StandardOpenOption.APPEND);
+
+            long loaded = ClassLoadingProfile.preTouch(preTouchList, getClass().getClassLoader());
+            assertEquals(profile.getClasses().size(), loaded);
+        }
+
+        // 按照绑定顺序记录绑定的类型
+        @Test
+        void should_record_bound_types_in_binding_order() {
+            contextConfig.getContext();
+
+            List<Class<?>> bound = List.of(String.class, Dependency.class, Component.class);
+            assertEquals(bound, profile.getClasses().stream().filter(bound::contains).toList());
+        }
+
+        // 创建容器前，可在后台按照预热列表加载类
+        @Test
+        void should_pre_touch_classes_in_background_while_binding(@TempDir Path directory) throws IOException {
+            contextConfig.getContext().get(Component.class);
+            Path preTouchList = directory.resolve("pre-touch.lst");
+            profile.writePreTouchList(preTouchList);
+
+            ContextConfig config = new ContextConfig();
+            CompletableFuture<Long> loaded = config.preTouch(preTouchList);
+            config.bind(Component.class, DefaultConstructorComponent.class);
+            config.getContext().get(Component.class);
+            assertEquals(profile.getClasses().size(), loaded.join().intValue());
+        }
+
+        // 预热列表不存在时，返回失败的结果
+        @Test
+        void should_fail_pre_touch_if_list_not_exist(@TempDir Path directory) {
+            CompletableFuture<Long> loaded = new ContextConfig().preTouch(directory.resolve("not-exist.lst"));
+
+            CompletionException exception = assertThrows(CompletionException.class, loaded::join);
+            assertTrue(exception.getCause() instanceof UncheckedIOException);
+        }
+    }
+
     // 对于依赖选择部分，我分解的任务列表如下：
 
     // 对 Provider 类型的依赖
@@ -0,0 +1,12 @@
+package com.xavier.dependencyinjection;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DiamondBottom {
+
+    static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public DiamondBottom() {
+        INSTANCES.incrementAndGet();
+    }
+}
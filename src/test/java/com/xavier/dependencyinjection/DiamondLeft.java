@@ -0,0 +1,10 @@
+package com.xavier.dependencyinjection;
+
+import jakarta.inject.Inject;
+
+public record DiamondLeft(DiamondBottom bottom) implements Dependency {
+
+    @Inject
+    public DiamondLeft {
+    }
+}
@@ -0,0 +1,10 @@
+package com.xavier.dependencyinjection;
+
+import jakarta.inject.Inject;
+
+public record DiamondRight(DiamondBottom bottom) implements AnotherDependency {
+
+    @Inject
+    public DiamondRight {
+    }
+}
@@ -0,0 +1,10 @@
+package com.xavier.dependencyinjection;
+
+import jakarta.inject.Inject;
+
+public record DiamondTop(Dependency left, AnotherDependency right) implements Component {
+
+    @Inject
+    public DiamondTop {
+    }
+}
@@ -0,0 +1,12 @@
+package com.xavier.dependencyinjection;
+
+import jakarta.annotation.PreDestroy;
+
+public class FailingDestroyComponent implements Component {
+
+    @PreDestroy
+    void destroy() {
+        LifecycleComponent.EVENTS.add("destroy failed");
+        throw new IllegalStateException();
+    }
+}
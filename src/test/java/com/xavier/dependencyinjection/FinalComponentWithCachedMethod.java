@@ -0,0 +1,9 @@
+package com.xavier.dependencyinjection;
+
+public final class FinalComponentWithCachedMethod implements Component {
+
+    @Cached
+    public String describe(String name) {
+        return name;
+    }
+}
@@ -0,0 +1,26 @@
+package com.xavier.dependencyinjection;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class LifecycleComponent implements Component {
+
+    static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+    @Inject
+    private Dependency dependency;
+
+    @PostConstruct
+    void construct() {
+        EVENTS.add(dependency == null ? "constructed without dependency" : "constructed");
+    }
+
+    @PreDestroy
+    void destroy() {
+        EVENTS.add("component destroyed");
+    }
+}
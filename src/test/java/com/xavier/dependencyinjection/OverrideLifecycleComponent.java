@@ -0,0 +1,19 @@
+package com.xavier.dependencyinjection;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+public class OverrideLifecycleComponent extends LifecycleComponent {
+
+    @PostConstruct
+    @Override
+    void construct() {
+        EVENTS.add("override constructed");
+    }
+
+    @PreDestroy
+    @Override
+    void destroy() {
+        EVENTS.add("override destroyed");
+    }
+}
@@ -0,0 +1,83 @@
+package com.xavier.dependencyinjection;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+public class StartupBenchmark {
+
+    private static final int RUNS = 10;
+
+    public static void main(String[] args) throws Exception {
+        switch (args[0]) {
+            case "train" -> {
+                ClassLoadingProfile profile = new ClassLoadingProfile();
+                start(profile);
+                profile.writeClassList(Path.of(args[1]));
+            }
+            case "start" -> start(null);
+            default -> benchmark(args[0], Path.of(args[1]), args.length > 2 ? Integer.parseInt(args[2]) : RUNS);
+        }
+    }
+
+    private static void start(ClassLoadingProfile profile) {
+        ContextConfig config = new ContextConfig();
+        if (profile != null) config.setClassLoadingProfile(profile);
+        config.bind(DiamondBottom.class, DiamondBottom.class);
+        config.bind(Dependency.class, DiamondLeft.class);
+        config.bind(AnotherDependency.class, DiamondRight.class);
+        config.bind(Component.class, DiamondTop.class);
+        config.bindFactory(AssistedComponentFactory.class, AssistedComponent.class);
+        config.bind(ComponentWithCachedMethods.class, ComponentWithCachedMethods.class);
+
+        try (ContextConfig.Context context = config.getContext()) {
+            context.getAll(Component.class, ComponentWithCachedMethods.class);
+            context.get(AssistedComponentFactory.class).orElseThrow().create("startup");
+            context.get(ComponentWithCachedMethods.class).orElseThrow().describe("startup");
+        }
+    }
+
+    private static void benchmark(String classpath, Path directory, int runs) throws Exception {
+        Files.createDirectories(directory);
+        Path classList = directory.resolve("classes.lst");
+        Path archive = directory.resolve("app.jsa");
+
+        launch(classpath, List.of(), "train", classList.toString());
+        launch(classpath, List.of("-Xshare:dump", "-XX:SharedClassListFile=" + classList, "-XX:SharedArchiveFile=" + archive));
+
+        long[] withoutArchive = new long[runs];
+        long[] withArchive = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            withoutArchive[run] = launch(classpath, List.of(), "start");
+            withArchive[run] = launch(classpath, List.of("-Xshare:on", "-XX:SharedArchiveFile=" + archive), "start");
+        }
+
+        System.out.printf("classes in archive: %d%n", Files.readAllLines(classList).size());
+        System.out.printf("cold start without archive: %d ms (median of %d)%n", median(withoutArchive), runs);
+        System.out.printf("cold start with archive:    %d ms (median of %d)%n", median(withArchive), runs);
+    }
+
+    private static long launch(String classpath, List<String> options, String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(options);
+        command.addAll(List.of("-cp", classpath));
+        if (args.length > 0) {
+            command.add(StartupBenchmark.class.getName());
+            command.addAll(List.of(args));
+        }
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).inheritIO().start();
+        if (process.waitFor() != 0) throw new IllegalStateException("Failed to run: " + String.join(" ", command));
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static long median(long[] elapsed) {
+        long[] sorted = LongStream.of(elapsed).sorted().toArray();
+        return sorted[sorted.length / 2];
+    }
+}
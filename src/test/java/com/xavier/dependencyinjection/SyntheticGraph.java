@@ -0,0 +1,218 @@
+package com.xavier.dependencyinjection;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class SyntheticGraph {
+
+    public static final AtomicInteger INJECTIONS = new AtomicInteger();
+
+    private static final List<Class<?>> NODES = new ArrayList<>();
+    private static byte[] nodeBytes;
+
+    private final List<List<Integer>> dependencies = new ArrayList<>();
+    private final AtomicInteger dependencyLookups = new AtomicInteger();
+    private final AtomicInteger instances = new AtomicInteger();
+    private final Queue<Integer> destructions = new ConcurrentLinkedQueue<>();
+    private boolean destroyable;
+
+    private SyntheticGraph(int size) {
+        IntStream.range(0, size).forEach(index -> dependencies.add(new ArrayList<>()));
+    }
+
+    public static SyntheticGraph chain(int size) {
+        SyntheticGraph graph = new SyntheticGraph(size);
+        IntStream.range(1, size).forEach(index -> graph.dependencies.get(index).add(index - 1));
+        return graph;
+    }
+
+    public static SyntheticGraph diamonds(int levels) {
+        SyntheticGraph graph = new SyntheticGraph(3 * levels + 1);
+        for (int level = 0; level < levels; level++) {
+            int bottom = 3 * level, left = bottom + 1, right = bottom + 2, top = bottom + 3;
+            graph.dependencies.get(left).add(bottom);
+            graph.dependencies.get(right).add(bottom);
+            graph.dependencies.get(top).addAll(List.of(left, right));
+        }
+        return graph;
+    }
+
+    public static SyntheticGraph denseDag(int size, int degree, long seed) {
+        SyntheticGraph graph = new SyntheticGraph(size);
+        Random random = new Random(seed);
+        for (int index = 1; index < size; index++) {
+            List<Integer> nodeDependencies = graph.dependencies.get(index);
+            while (nodeDependencies.size() < Math.min(index, degree)) {
+                int dependency = random.nextInt(index);
+                if (!nodeDependencies.contains(dependency)) nodeDependencies.add(dependency);
+            }
+        }
+        return graph;
+    }
+
+    public SyntheticGraph withCycle(long seed) {
+        Random random = new Random(seed);
+        int start;
+        do {
+            start = random.nextInt(size());
+        } while (dependencies.get(start).isEmpty());
+
+        int current = start;
+        do {
+            List<Integer> nodeDependencies = dependencies.get(current);
+            current = nodeDependencies.get(random.nextInt(nodeDependencies.size()));
+        } while (!dependencies.get(current).isEmpty() && random.nextInt(4) != 0);
+        dependencies.get(current).add(start);
+        return this;
+    }
+
+    public SyntheticGraph destroyable() {
+        destroyable = true;
+        return this;
+    }
+
+    public static Class<?> deepHierarchy(int depth, int injectionMethodsPerLevel, Path directory) throws IOException {
+        String packageName = "com.xavier.dependencyinjection.synthetic";
+        Path sourceDirectory = Files.createDirectories(directory.resolve("src"));
+        List<String> arguments = new ArrayList<>(List.of("-d", directory.resolve("classes").toString(),
+                "-cp", System.getProperty("java.class.path")));
+        for (int level = 0; level < depth; level++) {
+            StringBuilder source = new StringBuilder("package " + packageName + ";\n")
+                    .append("public class Level").append(level)
+                    .append(level == 0 ? "" : " extends Level" + (level - 1)).append(" {\n")
+                    .append("    @jakarta.inject.Inject\n")
+                    .append("    com.xavier.dependencyinjection.Dependency dependency").append(level).append(";\n");
+            for (int method = 0; method < injectionMethodsPerLevel; method++)
+                source.append("    @jakarta.inject.Inject\n")
+                        .append("    public void inject").append(level).append('_').append(method)
+                        .append("(com.xavier.dependencyinjection.Dependency dependency) {\n")
+                        .append("        com.xavier.dependencyinjection.SyntheticGraph.INJECTIONS.incrementAndGet();\n")
+                        .append("    }\n");
+            source.append("}\n");
+            Path sourceFile = sourceDirectory.resolve("Level" + level + ".java");
+            Files.writeString(sourceFile, source);
+            arguments.add(sourceFile.toString());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler.run(null, null, null, arguments.toArray(String[]::new)) != 0)
+            throw new IllegalStateException("failed to compile synthetic hierarchy");
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.resolve("classes").toUri().toURL()},
+                SyntheticGraph.class.getClassLoader());
+        try {
+            Class<?> level = null;
+            for (int index = 0; index < depth; index++) level = classLoader.loadClass(packageName + ".Level" + index);
+            return level;
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int size() {
+        return dependencies.size();
+    }
+
+    public int edges() {
+        return dependencies.stream().mapToInt(List::size).sum();
+    }
+
+    public Class<?> node(int index) {
+        synchronized (NODES) {
+            while (NODES.size() <= index) NODES.add(defineNode());
+            return NODES.get(index);
+        }
+    }
+
+    public Class<?>[] nodes() {
+        return IntStream.range(0, size()).mapToObj(this::node).toArray(Class<?>[]::new);
+    }
+
+    public Class<?> root() {
+        return node(size() - 1);
+    }
+
+    public void bindTo(ContextConfig config) {
+        IntStream.range(0, size()).forEach(index -> bind(config, node(index), index));
+    }
+
+    public int getDependencyLookups() {
+        return dependencyLookups.get();
+    }
+
+    public int getInstances() {
+        return instances.get();
+    }
+
+    public List<Integer> getDestructions() {
+        return new ArrayList<>(destructions);
+    }
+
+    public List<Integer> dependencies(int index) {
+        return dependencies.get(index);
+    }
+
+    private <T> void bind(ContextConfig config, Class<T> nodeClass, int index) {
+        List<Class<?>> nodeDependencies = dependencies.get(index).stream().<Class<?>>map(this::node).toList();
+        config.bindProvider(nodeClass, new ContextConfig.ComponentProvider<T>() {
+
+            @Override
+            public T get(ContextConfig.Context context) {
+                instances.incrementAndGet();
+                nodeDependencies.forEach(context::get);
+                try {
+                    return nodeClass.getConstructor().newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            @Override
+            public List<Class<?>> getDependencies() {
+                dependencyLookups.incrementAndGet();
+                return nodeDependencies;
+            }
+
+            @Override
+            public boolean isContextScoped() {
+                return destroyable;
+            }
+
+            @Override
+            public boolean isDestroyable(T instance) {
+                return destroyable;
+            }
+
+            @Override
+            public void destroy(T instance) {
+                destructions.add(index);
+            }
+        });
+    }
+
+    private static Class<?> defineNode() {
+        try {
+            if (nodeBytes == null) {
+                try (InputStream template = SyntheticComponent.class.getResourceAsStream("SyntheticComponent.class")) {
+                    nodeBytes = template.readAllBytes();
+                }
+            }
+            return MethodHandles.lookup().defineHiddenClass(nodeBytes, false).lookupClass();
+        } catch (IOException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}